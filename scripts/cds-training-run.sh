@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Records the CDS archive of the fast-startup layout. Called by 'mvn -Pfast-startup package'.
+#
+#   scripts/cds-training-run.sh <fast-startup dir> <app jar> [port]
+#
+# Starts the application from the plain classpath with -XX:ArchiveClassesAtExit, sends it a few
+# typical product requests so the classes loaded by the first requests are archived as well,
+# then stops it with SIGTERM, which writes application.jsa. The run creates a product, so it
+# always uses a throwaway in-memory database.
+
+set -euo pipefail
+
+DIR="$1"
+APP_JAR="$2"
+PORT="${3:-18099}"
+URL="http://localhost:$PORT/api/api/v1/products"
+START_TIMEOUT_S=120
+
+cd "$DIR"
+rm -f application.jsa
+
+# The classpath must match the one used at launch, see scripts/startup-benchmark.sh
+java -XX:ArchiveClassesAtExit=application.jsa \
+    -Dspring.aot.enabled=true -Dspring.profiles.active=prod \
+    -Dspring.datasource.url=jdbc:h2:mem:cds-training \
+    -cp "$APP_JAR:lib/*" \
+    com.example.api.SpringRestApiApplication --server.port="$PORT" > cds-training.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+deadline=$(( $(date +%s) + START_TIMEOUT_S ))
+until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null || (( $(date +%s) > deadline )); then
+        echo "Training run did not start, see $DIR/cds-training.log" >&2
+        exit 1
+    fi
+    sleep 0.2
+done
+
+curl -sf -o /dev/null -H 'Content-Type: application/json' \
+    -d '{"name":"CDS training","price":9.99,"quantity":1,"status":"ACTIVE"}' "$URL"
+# Twice each, so both the miss and the hit paths of the caches are loaded
+for _ in 1 2; do
+    curl -sf -o /dev/null "$URL"
+    curl -sf -o /dev/null -H 'Accept-Encoding: gzip' "$URL"
+    curl -sf -o /dev/null "$URL/1"
+    curl -sf -o /dev/null "$URL/search?name=cds&maxPrice=100"
+done
+curl -sf -o /dev/null "$URL/stats"
+
+kill -TERM "$pid"
+wait "$pid" || true
+trap - EXIT
+
+if [[ ! -f application.jsa ]]; then
+    echo "Training run did not write application.jsa, see $DIR/cds-training.log" >&2
+    exit 1
+fi
+echo "Recorded $DIR/application.jsa"
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+#
+# Measures startup time and time-to-first-request for each launch mode.
+#
+#   mvn -Pfast-startup package
+#   scripts/startup-benchmark.sh [runs] [port]
+#
+# Modes:
+#   default       fat jar, default profile (springdoc, ddl-auto=update)
+#   prod          fat jar, prod profile
+#   fast-startup  AOT-processed classes on a plain classpath, prod profile, CDS archive
+#                 recorded by scripts/cds-training-run.sh, which also sends product requests
+#
+# "startup" is the time Spring reports in its "Started ... in" log line,
+# "first request" is wall-clock time from process launch to the first 200 from the products endpoint.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+FAT_JAR="$(ls "$TARGET"/spring-rest-api-*.jar | grep -v -- '-app.jar' | head -n 1)"
+FAST_DIR="$TARGET/fast-startup"
+URL="http://localhost:$PORT/api/api/v1/products"
+LOG="$(mktemp)"
+trap 'rm -f "$LOG"' EXIT
+
+if [[ ! -f "$FAST_DIR/application.jsa" ]]; then
+    echo "Missing $FAST_DIR/application.jsa, run 'mvn -Pfast-startup package' first" >&2
+    exit 1
+fi
+
+launch() {
+    local mode="$1"
+    case "$mode" in
+        default)
+            exec java -jar "$FAT_JAR" --server.port="$PORT" ;;
+        prod)
+            exec java -Dspring.profiles.active=prod -jar "$FAT_JAR" --server.port="$PORT" ;;
+        fast-startup)
+            # Must run from the directory and with the classpath used by the training run
+            cd "$FAST_DIR" && exec java -XX:SharedArchiveFile=application.jsa \
+                -Dspring.aot.enabled=true -Dspring.profiles.active=prod \
+                -cp "$(basename "$(ls "$FAST_DIR"/*-app.jar)"):lib/*" \
+                com.example.api.SpringRestApiApplication --server.port="$PORT" ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { if (NR % 2) print values[(NR + 1) / 2]; else print (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+printf "%-14s %14s %20s\n" "mode" "startup (ms)" "first request (ms)"
+
+for mode in default prod fast-startup; do
+    startups=()
+    firsts=()
+    for ((run = 1; run <= RUNS; run++)); do
+        start="$(now_ms)"
+        (launch "$mode") > "$LOG" 2>&1 &
+        pid=$!
+
+        until curl -sf -o /dev/null "$URL"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$mode exited before serving a request, log:" >&2
+                cat "$LOG" >&2
+                exit 1
+            fi
+            sleep 0.01
+        done
+        firsts+=("$(( $(now_ms) - start ))")
+
+        seconds="$(grep -o 'Started SpringRestApiApplication in [0-9.]*' "$LOG" | awk '{ print $4 }')"
+        startups+=("$(awk -v s="$seconds" 'BEGIN { printf "%d", s * 1000 }')")
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+    done
+
+    printf "%-14s %14s %20s\n" "$mode" \
+        "$(printf '%s\n' "${startups[@]}" | median)" \
+        "$(printf '%s\n' "${firsts[@]}" | median)"
+done
@@ -0,0 +1,39 @@
+package com.example.api.config;
+
+import com.example.api.filter.AdaptiveConcurrencyLimiter;
+import com.example.api.filter.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${products.concurrency.read.initial-limit:50}") int readInitialLimit,
+            @Value("${products.concurrency.read.max-limit:200}") int readMaxLimit,
+            @Value("${products.concurrency.write.initial-limit:10}") int writeInitialLimit,
+            @Value("${products.concurrency.write.max-limit:50}") int writeMaxLimit,
+            @Value("${products.concurrency.min-limit:2}") int minLimit,
+            @Value("${products.concurrency.retry-after-seconds:1}") int retryAfterSeconds) {
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                new AdaptiveConcurrencyLimiter(readInitialLimit, minLimit, readMaxLimit),
+                new AdaptiveConcurrencyLimiter(writeInitialLimit, minLimit, writeMaxLimit),
+                cacheManager, objectMapper, meterRegistry, retryAfterSeconds);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/products/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
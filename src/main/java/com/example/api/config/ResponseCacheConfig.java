@@ -0,0 +1,44 @@
+package com.example.api.config;
+
+import com.example.api.filter.ResponseCacheFilter;
+import com.example.api.filter.ResponseCacheFilter.CachedResponse;
+import com.example.api.service.ProductChangeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ProductChangeService productChangeService,
+            MeterRegistry meterRegistry,
+            @Value("${products.response-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${products.response-cache.expire-after-write-ms:3600000}") long expireAfterWriteMs) {
+
+        // Only this node's writes move the version, the expiry bounds staleness from other nodes
+        Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "productResponses");
+
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(cache, productChangeService));
+        registration.addUrlPatterns("/api/v1/products/*");
+        // Ahead of the concurrency limit, cached bytes never need a slot
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.api.controller;
 
+import com.example.api.dto.ProductChangePageDTO;
 import com.example.api.dto.ProductDTO;
+import com.example.api.dto.ProductStatsDTO;
+import com.example.api.service.ProductChangeService;
 import com.example.api.service.ProductService;
+import com.example.api.service.ProductStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,8 +19,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 @RestController
@@ -29,6 +35,12 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductStatsService productStatsService;
+
+    @Autowired
+    private ProductChangeService productChangeService;
+
     @GetMapping
     @Operation(
         summary = "Get all products",
@@ -86,6 +98,106 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get product statistics",
+        description = "Returns counts per status, a price histogram and inventory totals. " +
+                     "Without filters the figures come from in-memory aggregates; " +
+                     "with filters they are computed by the database."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Statistics computed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProductStatsDTO.class)
+            )
+        )
+    })
+    public ResponseEntity<ProductStatsDTO> getProductStats(
+        @Parameter(description = "Product name to filter on (case-insensitive)")
+        @RequestParam(required = false) String name,
+        
+        @Parameter(description = "Minimum price")
+        @RequestParam(required = false) Double minPrice,
+        
+        @Parameter(description = "Maximum price")
+        @RequestParam(required = false) Double maxPrice
+    ) {
+        logger.info("Statistiques des produits - Nom: {}, Prix min: {}, Prix max: {}", 
+                   name, minPrice, maxPrice);
+        ProductStatsDTO stats = productStatsService.getStats(name, minPrice, maxPrice);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream product changes",
+        description = "Server-Sent Events stream of product creations, updates and deletions. " +
+                     "Each event id is 'epoch:offset'; reconnect with Last-Event-ID, or epoch and since, to resume. " +
+                     "A new stream starts with a 'position' event carrying the current resume point. " +
+                     "A 'reset' event means the requested position cannot be resumed from (no longer retained, " +
+                     "or from another epoch after a restart or on another node) and a full reload is needed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Change stream opened"
+        )
+    })
+    public SseEmitter streamChanges(
+        @Parameter(description = "Last offset already received, omit to receive only new changes")
+        @RequestParam(required = false) Long since,
+        
+        @Parameter(description = "Epoch the offset belongs to")
+        @RequestParam(required = false) String epoch,
+        
+        @Parameter(description = "Last event id received, sent automatically by EventSource on reconnect")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        logger.info("Abonnement au flux de modifications - Depuis: {}, Epoch: {}, Last-Event-ID: {}",
+                   since, epoch, lastEventId);
+        return productChangeService.subscribe(lastEventId, epoch, since);
+    }
+
+    @GetMapping(value = "/changes", params = "since", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Get product changes",
+        description = "Returns the product changes recorded after the given offset. " +
+                     "If the offset cannot be resumed from, the page is empty, truncated is true " +
+                     "and the client must reload a full snapshot."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProductChangePageDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid offset or limit"
+        )
+    })
+    public ResponseEntity<ProductChangePageDTO> getChanges(
+        @Parameter(description = "Last offset already received", required = true, example = "0")
+        @RequestParam long since,
+        
+        @Parameter(description = "Epoch returned with the previous page")
+        @RequestParam(required = false) String epoch,
+        
+        @Parameter(description = "Maximum number of changes to return")
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        logger.info("Récupération des modifications - Depuis: {}, Epoch: {}, Limite: {}", since, epoch, limit);
+        ProductChangePageDTO page = productChangeService.getChanges(epoch, since, limit);
+        logger.info("Nombre de modifications trouvées: {}", page.getChanges().size());
+        return ResponseEntity.ok(page);
+    }
+
     @PostMapping
     @Operation(
         summary = "Create a new product",
@@ -0,0 +1,20 @@
+package com.example.api.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBucketDTO {
+    /** Inclusive lower bound. */
+    private Double minPrice;
+
+    /** Exclusive upper bound, {@code null} for the last bucket. */
+    private Double maxPrice;
+
+    private long count;
+}
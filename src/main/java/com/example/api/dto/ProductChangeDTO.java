@@ -0,0 +1,27 @@
+package com.example.api.dto;
+
+import com.example.api.event.ProductChangeType;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangeDTO {
+    /** Position in the change log, strictly increasing. */
+    private long offset;
+
+    private ProductChangeType type;
+
+    private Long productId;
+
+    /** Product state after the change, {@code null} for deletions. */
+    private ProductDTO product;
+
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,29 @@
+package com.example.api.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangePageDTO {
+    /** Epoch of the change log, to pass back with {@code since} on the next call. */
+    private String epoch;
+
+    private List<ProductChangeDTO> changes;
+
+    /** Offset to pass as {@code since} on the next call. */
+    private long nextOffset;
+
+    /**
+     * True when the requested offset cannot be resumed from: its changes were already dropped
+     * from the log, or it belongs to another epoch. No changes are returned; the client must
+     * reload a full snapshot and continue from {@code nextOffset}.
+     */
+    private boolean truncated;
+}
@@ -0,0 +1,34 @@
+package com.example.api.dto;
+
+import com.example.api.entity.ProductStatus;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStatsDTO {
+    private long totalProducts;
+
+    private long totalQuantity;
+
+    /** Sum of price * quantity over all products. */
+    private BigDecimal totalInventoryValue;
+
+    private Map<ProductStatus, Long> countByStatus;
+
+    private Map<ProductStatus, Long> quantityByStatus;
+
+    private List<PriceBucketDTO> priceHistogram;
+
+    /** Last reconciliation against the database for global stats, computation time for filtered ones. */
+    private LocalDateTime asOf;
+}
@@ -0,0 +1,7 @@
+package com.example.api.event;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,37 @@
+package com.example.api.event;
+
+import com.example.api.dto.ProductDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the product service for every create, update and delete.
+ * Listeners should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final ProductChangeType type;
+
+    /** State before the change, {@code null} for creations. */
+    private final ProductDTO before;
+
+    /** State after the change, {@code null} for deletions. */
+    private final ProductDTO after;
+
+    public static ProductChangedEvent created(ProductDTO product) {
+        return new ProductChangedEvent(ProductChangeType.CREATED, null, product);
+    }
+
+    public static ProductChangedEvent updated(ProductDTO before, ProductDTO after) {
+        return new ProductChangedEvent(ProductChangeType.UPDATED, before, after);
+    }
+
+    public static ProductChangedEvent deleted(ProductDTO product) {
+        return new ProductChangedEvent(ProductChangeType.DELETED, product, null);
+    }
+
+    public Long getProductId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.api.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows measured latency, in the spirit of Netflix's gradient limiter.
+ * The limit grows while request latency stays close to its long-term average and shrinks
+ * proportionally when latency rises, i.e. when requests start queueing on the database.
+ * Failed requests cut the limit multiplicatively (AIMD).
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Guarded by this
+    private double limit;
+    private double longRtt;
+
+    // Integer view of limit, read on every request without locking
+    private volatile int currentLimit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Reserves a slot if the current limit allows it. Every successful call must be
+     * followed by {@link #onSuccess} or {@link #onFailure}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void onSuccess(long rttNanos) {
+        rttNanos = Math.max(1, rttNanos);
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (longRtt == 0) {
+                longRtt = rttNanos;
+                return;
+            }
+            longRtt += (rttNanos - longRtt) * 2.0 / (LONG_WINDOW + 1);
+            // After a long slow period let the baseline recover quickly
+            if (longRtt / rttNanos > 2) {
+                longRtt *= 0.95;
+            }
+
+            // Far below the limit the latency says nothing about capacity
+            if (inFlightAtCompletion < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / rttNanos));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            updateLimit(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        }
+    }
+
+    public void onFailure() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            updateLimit(limit * BACKOFF_RATIO);
+        }
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // Must hold this
+    private void updateLimit(double value) {
+        limit = Math.max(minLimit, Math.min(maxLimit, value));
+        currentLimit = (int) limit;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.api.filter;
+
+import com.example.api.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Sheds load in front of the product endpoints with separate adaptive limits for reads and writes.
+ * Requests over the limit get an immediate 503 with Retry-After instead of waiting for a worker
+ * blocked on the database. Reads already present in the products cache skip the limit.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+    private static final String CHANGES_PATH = PRODUCTS_PATH + "/changes";
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final int retryAfterSeconds;
+
+    private final Counter readRejections;
+    private final Counter writeRejections;
+    private final Counter cacheHitBypasses;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter,
+                                  AdaptiveConcurrencyLimiter writeLimiter,
+                                  CacheManager cacheManager,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  int retryAfterSeconds) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        registerGauges(meterRegistry, "read", readLimiter);
+        registerGauges(meterRegistry, "write", writeLimiter);
+        this.readRejections = rejectionCounter(meterRegistry, "read");
+        this.writeRejections = rejectionCounter(meterRegistry, "write");
+        this.cacheHitBypasses = Counter.builder("products.concurrency.bypassed")
+                .description("Reads served from cache without taking a concurrency slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Long-lived SSE streams would hold a slot for their whole lifetime
+        return pathWithinApplication(request).startsWith(CHANGES_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+
+        if (read && isCached(pathWithinApplication(request))) {
+            cacheHitBypasses.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            (read ? readRejections : writeRejections).increment();
+            reject(request, response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (failed) {
+                limiter.onFailure();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private boolean isCached(String path) {
+        Cache cache = cacheManager.getCache("products");
+        if (cache == null) {
+            return false;
+        }
+        if (path.equals(PRODUCTS_PATH)) {
+            return cache.get(SimpleKey.EMPTY) != null;
+        }
+        String id = path.startsWith(PRODUCTS_PATH + "/") ? path.substring(PRODUCTS_PATH.length() + 1) : "";
+        if (!id.isEmpty() && id.chars().allMatch(Character::isDigit) && id.length() < 19) {
+            return cache.get(Long.valueOf(id)) != null;
+        }
+        return false;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AdaptiveConcurrencyLimiter limiter)
+            throws IOException {
+        logger.warn("Requête rejetée, limite de concurrence atteinte - {} {}, Limite: {}",
+                   request.getMethod(), request.getRequestURI(), limiter.getLimit());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(LocalDateTime.now());
+        errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.setError("Service Unavailable");
+        errorResponse.setMessage("Server is overloaded, please retry later");
+        errorResponse.setPath("uri=" + request.getRequestURI());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void registerGauges(MeterRegistry registry, String type, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("products.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("products.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency slot")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, String type) {
+        return Counter.builder("products.concurrency.rejected")
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("type", type)
+                .register(registry);
+    }
+}
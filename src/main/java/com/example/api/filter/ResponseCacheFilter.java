@@ -0,0 +1,141 @@
+package com.example.api.filter;
+
+import com.example.api.service.ProductChangeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves hot product GETs (list, single product, search) from already-encoded JSON bytes,
+ * with a precompressed gzip variant, so hits skip the service, Jackson and compression.
+ * Keys include the change feed offset, so every committed change makes older entries unreachable.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+    private static final Pattern CACHEABLE_PATH =
+            Pattern.compile(Pattern.quote(PRODUCTS_PATH) + "(/\\d{1,18}|/search)?");
+
+    private final Cache<String, CachedResponse> cache;
+    private final ProductChangeService productChangeService;
+
+    private volatile long lastSeenVersion = -1;
+
+    public ResponseCacheFilter(Cache<String, CachedResponse> cache, ProductChangeService productChangeService) {
+        this.cache = cache;
+        this.productChangeService = productChangeService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Read the version before the body is computed, a concurrent change then lands under a newer key
+        long version = productChangeService.getLatestOffset();
+        if (version != lastSeenVersion) {
+            lastSeenVersion = version;
+            cache.invalidateAll();
+        }
+
+        String key = cacheKey(request, version);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpStatus.OK.value() || wrapper.getContentType() == null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse fresh = CachedResponse.of(wrapper.getContentType(), wrapper.getContentAsByteArray());
+        cache.put(key, fresh);
+        write(request, response, fresh);
+    }
+
+    private static String cacheKey(HttpServletRequest request, long version) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('@').append(version);
+        // Parameter order does not change the result of a search
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> key.append('&').append(name).append('=').append(Arrays.toString(values)));
+        return key.toString();
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = cached.body;
+        if (cached.gzipBody != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipBody;
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    public static final class CachedResponse {
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipBody;
+
+        private CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+            this.contentType = contentType;
+            this.body = body;
+            this.gzipBody = gzipBody;
+        }
+
+        static CachedResponse of(String contentType, byte[] body) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            // Tiny bodies can grow when compressed, keep only the plain variant then
+            byte[] gzipBody = compressed.size() < body.length ? compressed.toByteArray() : null;
+            return new CachedResponse(contentType, body, gzipBody);
+        }
+
+        public int weight() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.example.api.repository;
 
 import com.example.api.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
-    boolean existsByName(String name);
-    boolean existsByNameAndIdNot(String name, Long id);
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductRepositoryCustom {
+
+    // findAll() is deliberately not cacheable: a cached id list larger than the Product region
+    // would reload most entities one by one. The full list is cached as DTOs by ProductServiceImpl.
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Product> findAll(Specification<Product> spec);
 }
@@ -0,0 +1,22 @@
+package com.example.api.repository;
+
+import com.example.api.entity.Product;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepositoryCustom {
+    /**
+     * Looks a product up by its natural id, the unique name, going through the
+     * second-level natural-id cache before hitting the database.
+     */
+    Optional<Product> findByNaturalName(String name);
+
+    /**
+     * Aggregates products by status and price bucket in the database. Bucket {@code i} holds
+     * prices in {@code [priceBoundaries[i - 1], priceBoundaries[i])}, the last one everything
+     * from the highest boundary up. Null filters are ignored.
+     */
+    List<ProductStatsGroup> aggregateStats(String namePattern, Double minPrice, Double maxPrice,
+                                           double[] priceBoundaries);
+}
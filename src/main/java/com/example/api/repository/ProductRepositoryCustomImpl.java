@@ -0,0 +1,70 @@
+package com.example.api.repository;
+
+import com.example.api.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Product> findByNaturalName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(name);
+    }
+
+    @Override
+    public List<ProductStatsGroup> aggregateStats(String namePattern, Double minPrice, Double maxPrice,
+                                                  double[] priceBoundaries) {
+        String bucket = bucketExpression(priceBoundaries);
+
+        StringBuilder jpql = new StringBuilder("SELECT new com.example.api.repository.ProductStatsGroup(")
+                .append("p.status, ").append(bucket)
+                .append(", COUNT(p), SUM(p.quantity), SUM(CAST(p.price AS BigDecimal(19, ")
+                .append(ProductStatsGroup.PRICE_SCALE).append(")) * p.quantity)) FROM Product p WHERE 1 = 1");
+        if (namePattern != null) {
+            jpql.append(" AND LOWER(p.name) LIKE :namePattern");
+        }
+        if (minPrice != null) {
+            jpql.append(" AND p.price >= :minPrice");
+        }
+        if (maxPrice != null) {
+            jpql.append(" AND p.price <= :maxPrice");
+        }
+        jpql.append(" GROUP BY p.status, ").append(bucket);
+
+        TypedQuery<ProductStatsGroup> query = entityManager.createQuery(jpql.toString(), ProductStatsGroup.class);
+        if (namePattern != null) {
+            query.setParameter("namePattern", namePattern);
+        }
+        if (minPrice != null) {
+            query.setParameter("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            query.setParameter("maxPrice", maxPrice);
+        }
+        return query.getResultList();
+    }
+
+    // Boundaries are inlined as literals so the GROUP BY expression is identical to the selected one
+    private static String bucketExpression(double[] priceBoundaries) {
+        if (priceBoundaries.length == 0) {
+            return "0";
+        }
+        StringBuilder bucket = new StringBuilder("CASE");
+        for (int i = 0; i < priceBoundaries.length; i++) {
+            bucket.append(" WHEN p.price < ").append(BigDecimal.valueOf(priceBoundaries[i]).toPlainString())
+                  .append(" THEN ").append(i);
+        }
+        return bucket.append(" ELSE ").append(priceBoundaries.length).append(" END").toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.api.repository;
+
+import com.example.api.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of {@link ProductRepositoryCustom#aggregateStats}: one group per status and price bucket.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductStatsGroup {
+
+    /** Scale prices are rounded to before summing, in SQL and for in-memory deltas alike. */
+    public static final int PRICE_SCALE = 2;
+
+    private final ProductStatus status;
+
+    /** Index of the price bucket, see {@link ProductRepositoryCustom#aggregateStats}. */
+    private final Integer bucket;
+
+    private final Long productCount;
+
+    private final Long totalQuantity;
+
+    /** Sum of price * quantity, prices rounded to {@link #PRICE_SCALE}. */
+    private final BigDecimal inventoryValue;
+}
@@ -0,0 +1,10 @@
+package com.example.api.service;
+
+import com.example.api.dto.ProductChangePageDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ProductChangeService {
+    ProductChangePageDTO getChanges(String epoch, long since, int limit);
+    SseEmitter subscribe(String lastEventId, String epoch, Long since);
+    long getLatestOffset();
+}
@@ -0,0 +1,8 @@
+package com.example.api.service;
+
+import com.example.api.dto.ProductStatsDTO;
+
+public interface ProductStatsService {
+    ProductStatsDTO getStats(String name, Double minPrice, Double maxPrice);
+    void reconcile();
+}
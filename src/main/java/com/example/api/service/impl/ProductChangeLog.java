@@ -0,0 +1,72 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.ProductChangeDTO;
+import com.example.api.event.ProductChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring buffer holding the last {@code capacity} product changes. Offsets start at 1 and only
+ * make sense within one epoch: the log lives in memory, so a restart or another node starts
+ * a new epoch with offsets counting from 1 again. Callers synchronize access.
+ */
+class ProductChangeLog {
+
+    private final int capacity;
+    private final String epoch;
+    // Change with offset n is stored at index n % capacity
+    private final ProductChangeDTO[] changes;
+    // Volatile so the current version can be read without the callers' lock
+    private volatile long latestOffset;
+
+    ProductChangeLog(int capacity, String epoch) {
+        if (capacity <= 0) {
+            throw new IllegalStateException("Change log capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.epoch = epoch;
+        this.changes = new ProductChangeDTO[capacity];
+    }
+
+    ProductChangeDTO append(ProductChangedEvent event) {
+        ProductChangeDTO change = new ProductChangeDTO(latestOffset + 1, event.getType(),
+                event.getProductId(), event.getAfter(), LocalDateTime.now());
+        changes[(int) (change.getOffset() % capacity)] = change;
+        latestOffset = change.getOffset();
+        return change;
+    }
+
+    String getEpoch() {
+        return epoch;
+    }
+
+    /** Safe to call without synchronization. */
+    long getLatestOffset() {
+        return latestOffset;
+    }
+
+    long firstRetainedOffset() {
+        return Math.max(1, latestOffset - capacity + 1);
+    }
+
+    /**
+     * True when a client that has seen everything up to {@code since} cannot catch up from this log:
+     * the following changes were overwritten, or the offset was never issued in this epoch.
+     */
+    boolean isTruncated(long since) {
+        return since < firstRetainedOffset() - 1 || since > latestOffset;
+    }
+
+    /** Up to {@code limit} retained changes with an offset greater than {@code since}, oldest first. */
+    List<ProductChangeDTO> changesAfter(long since, int limit) {
+        long from = Math.max(since + 1, firstRetainedOffset());
+        long to = Math.min(latestOffset, from + Math.min(limit, capacity) - 1);
+        List<ProductChangeDTO> result = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long offset = from; offset <= to; offset++) {
+            result.add(changes[(int) (offset % capacity)]);
+        }
+        return result;
+    }
+}
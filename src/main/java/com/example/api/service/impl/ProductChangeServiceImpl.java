@@ -0,0 +1,309 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.ProductChangeDTO;
+import com.example.api.dto.ProductChangePageDTO;
+import com.example.api.event.ProductChangedEvent;
+import com.example.api.exception.BusinessValidationException;
+import com.example.api.service.ProductChangeService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only, bounded log of committed product changes. Pull clients read it by offset;
+ * SSE subscribers first replay the log from their offset, then get each new change pushed
+ * through their own bounded queue and are disconnected when they fall too far behind,
+ * after which they resume with Last-Event-ID. All writes to a subscriber, heartbeats included,
+ * happen on its own drain task, so a stalled connection only ever blocks that task.
+ * Offsets are qualified by a per-process epoch so that a resume against a restarted or
+ * different node triggers a reset instead of a silent gap.
+ */
+@Service
+public class ProductChangeServiceImpl implements ProductChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeServiceImpl.class);
+
+    private static final String CHANGE_EVENT = "product-change";
+    private static final String RESET_EVENT = "reset";
+    private static final String POSITION_EVENT = "position";
+    private static final char EVENT_ID_SEPARATOR = ':';
+    private static final int REPLAY_CHUNK_SIZE = 100;
+    private static final String PRODUCTS_CACHE = "products";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${products.changes.log-capacity:10000}")
+    private int logCapacity;
+
+    @Value("${products.changes.max-pending-per-subscriber:1000}")
+    private int maxPendingPerSubscriber;
+
+    @Value("${products.changes.emitter-timeout-ms:1800000}")
+    private long emitterTimeout;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private ProductChangeLog changeLog;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void initialize() {
+        changeLog = new ProductChangeLog(logCapacity, UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    @Override
+    public ProductChangePageDTO getChanges(String epoch, long since, int limit) {
+        if (since < 0) {
+            throw new BusinessValidationException("Offset 'since' must be greater than or equal to 0");
+        }
+        if (limit <= 0) {
+            throw new BusinessValidationException("Limit must be greater than 0");
+        }
+
+        synchronized (lock) {
+            if (!canResume(epoch, since)) {
+                return new ProductChangePageDTO(changeLog.getEpoch(), List.of(), changeLog.getLatestOffset(), true);
+            }
+            List<ProductChangeDTO> changes = changeLog.changesAfter(since, limit);
+            long nextOffset = changes.isEmpty() ? since : changes.get(changes.size() - 1).getOffset();
+            return new ProductChangePageDTO(changeLog.getEpoch(), changes, nextOffset, false);
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(String lastEventId, String epoch, Long since) {
+        if (lastEventId != null) {
+            int separator = lastEventId.lastIndexOf(EVENT_ID_SEPARATOR);
+            epoch = separator >= 0 ? lastEventId.substring(0, separator) : null;
+            since = parseOffset(lastEventId.substring(separator + 1));
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            // Changes up to replayEnd are replayed from the log, later ones arrive through the queue
+            subscriber.replayEnd = changeLog.getLatestOffset();
+            if (since == null) {
+                // Gives the client a resume point even if it disconnects before the next change
+                subscriber.replayCursor = subscriber.replayEnd;
+                subscriber.positionEvent = POSITION_EVENT;
+            } else if (canResume(epoch, since)) {
+                subscriber.replayCursor = since;
+            } else {
+                subscriber.replayCursor = subscriber.replayEnd;
+                subscriber.positionEvent = RESET_EVENT;
+            }
+            subscribers.add(subscriber);
+        }
+
+        logger.info("Nouvel abonné au flux de modifications - Depuis: {}, Abonnés: {}", since, subscribers.size());
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /** Lock-free, read on every cacheable GET as the catalog version. */
+    @Override
+    public long getLatestOffset() {
+        return changeLog.getLatestOffset();
+    }
+
+    /**
+     * The offset doubles as the response cache version, so the DTO cache is cleared before it
+     * moves: otherwise a response rebuilt from stale DTOs could be stored under the new version.
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        Cache products = cacheManager.getCache(PRODUCTS_CACHE);
+        if (products != null) {
+            products.clear();
+        }
+        synchronized (lock) {
+            ProductChangeDTO change = changeLog.append(event);
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, change);
+            }
+        }
+    }
+
+    /** Only flags the subscribers, the heartbeat itself is written by each drain task. */
+    @Scheduled(fixedDelayString = "${products.changes.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatRequested = true;
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    // Must hold lock
+    private boolean canResume(String epoch, long since) {
+        return (epoch == null || epoch.equals(changeLog.getEpoch())) && !changeLog.isTruncated(since);
+    }
+
+    private void offer(Subscriber subscriber, ProductChangeDTO change) {
+        if (subscriber.pending.get() >= maxPendingPerSubscriber) {
+            logger.warn("Abonné trop lent déconnecté - {} modifications en attente", subscriber.pending.get());
+            subscribers.remove(subscriber);
+            subscriber.evicted = true;
+            // complete() waits for a send stuck on the stalled socket, never do that under the lock
+            senders.execute(subscriber.emitter::complete);
+            return;
+        }
+        subscriber.queue.add(change);
+        subscriber.pending.incrementAndGet();
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            boolean sent = false;
+            String positionEvent = subscriber.positionEvent;
+            if (positionEvent != null) {
+                subscriber.positionEvent = null;
+                sendPosition(subscriber, positionEvent);
+                sent = true;
+            }
+            sent |= replay(subscriber);
+            ProductChangeDTO change;
+            while (!subscriber.evicted && (change = subscriber.queue.poll()) != null) {
+                subscriber.pending.decrementAndGet();
+                send(subscriber, change);
+                sent = true;
+            }
+            if (subscriber.heartbeatRequested) {
+                subscriber.heartbeatRequested = false;
+                if (!sent && !subscriber.evicted) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if ((!subscriber.queue.isEmpty() || subscriber.heartbeatRequested) && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    // Only called by the single draining task, so the cursor needs no lock. Returns whether anything was sent.
+    private boolean replay(Subscriber subscriber) throws IOException {
+        boolean sent = false;
+        while (!subscriber.evicted && subscriber.replayCursor < subscriber.replayEnd) {
+            List<ProductChangeDTO> chunk;
+            synchronized (lock) {
+                chunk = changeLog.isTruncated(subscriber.replayCursor) ? null
+                        : changeLog.changesAfter(subscriber.replayCursor,
+                                (int) Math.min(REPLAY_CHUNK_SIZE, subscriber.replayEnd - subscriber.replayCursor));
+            }
+            if (chunk == null) {
+                // The log wrapped past the cursor while replaying
+                subscriber.replayCursor = subscriber.replayEnd;
+                sendPosition(subscriber, RESET_EVENT);
+                return true;
+            }
+            for (ProductChangeDTO change : chunk) {
+                send(subscriber, change);
+                subscriber.replayCursor = change.getOffset();
+                sent = true;
+            }
+        }
+        return sent;
+    }
+
+    private void send(Subscriber subscriber, ProductChangeDTO change) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(eventId(change.getOffset()))
+                .name(CHANGE_EVENT)
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    // Resume point is replayEnd: live changes after it are still queued for this subscriber
+    private void sendPosition(Subscriber subscriber, String eventName) throws IOException {
+        String position = eventId(subscriber.replayEnd);
+        subscriber.emitter.send(SseEmitter.event().id(position).name(eventName).data(position));
+    }
+
+    private String eventId(long offset) {
+        return changeLog.getEpoch() + EVENT_ID_SEPARATOR + offset;
+    }
+
+    // An unreadable id maps to an offset that is never resumable, so the client gets a reset
+    private static long parseOffset(String offset) {
+        try {
+            return Long.parseLong(offset);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(new IOException("Subscriber connection lost"));
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<ProductChangeDTO> queue = new ConcurrentLinkedQueue<>();
+        // Live changes only, the replayed backlog is read from the log and not counted
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // RESET_EVENT or POSITION_EVENT to send before anything else, if any
+        private volatile String positionEvent;
+        private volatile boolean heartbeatRequested;
+        private volatile boolean evicted;
+        private long replayCursor;
+        private long replayEnd;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
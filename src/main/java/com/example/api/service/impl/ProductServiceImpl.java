@@ -7,8 +7,10 @@ import com.example.api.service.ProductService;
 import com.example.api.exception.ResourceNotFoundException;
 import com.example.api.exception.BusinessValidationException;
 import com.example.api.dto.ProductDTO;
+import com.example.api.event.ProductChangedEvent;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.jpa.domain.Specification;
@@ -28,6 +30,9 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     @Cacheable(value = "products")
     public List<ProductDTO> getAllProducts() {
@@ -82,7 +87,9 @@ public class ProductServiceImpl implements ProductService {
         validateProductDTO(productDTO);
         Product product = convertToEntity(productDTO);
         Product savedProduct = productRepository.save(product);
-        return convertToDTO(savedProduct);
+        ProductDTO createdProduct = convertToDTO(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.created(createdProduct));
+        return createdProduct;
     }
 
     @Override
@@ -93,19 +100,22 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
         
         validateProductUpdate(productDTO, existingProduct);
+        ProductDTO previousProduct = convertToDTO(existingProduct);
         updateProductFromDTO(existingProduct, productDTO);
         
         Product updatedProduct = productRepository.save(existingProduct);
-        return convertToDTO(updatedProduct);
+        ProductDTO updatedProductDTO = convertToDTO(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previousProduct, updatedProductDTO));
+        return updatedProductDTO;
     }
 
     @Override
     @CacheEvict(value = "products", allEntries = true)
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Product not found with id: " + id);
-        }
-        productRepository.deleteById(id);
+        Product existingProduct = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
+        productRepository.delete(existingProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(convertToDTO(existingProduct)));
     }
 
     private void validateProductDTO(ProductDTO dto) {
@@ -121,14 +131,16 @@ public class ProductServiceImpl implements ProductService {
             throw new BusinessValidationException("Product quantity must be greater than 0");
         }
 
-        if (productRepository.existsByName(dto.getName())) {
+        if (productRepository.findByNaturalName(dto.getName()).isPresent()) {
             throw new BusinessValidationException("Product with name '" + dto.getName() + "' already exists");
         }
     }
 
     private void validateProductUpdate(ProductDTO dto, Product existingProduct) {
         if (dto.getName() != null && !dto.getName().equals(existingProduct.getName()) &&
-            productRepository.existsByNameAndIdNot(dto.getName(), existingProduct.getId())) {
+            productRepository.findByNaturalName(dto.getName())
+                    .filter(product -> !product.getId().equals(existingProduct.getId()))
+                    .isPresent()) {
             throw new BusinessValidationException("Product with name '" + dto.getName() + "' already exists");
         }
     }
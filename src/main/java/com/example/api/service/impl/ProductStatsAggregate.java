@@ -0,0 +1,96 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.PriceBucketDTO;
+import com.example.api.dto.ProductDTO;
+import com.example.api.dto.ProductStatsDTO;
+import com.example.api.entity.ProductStatus;
+import com.example.api.repository.ProductStatsGroup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts, quantities, inventory value and price histogram of a set of products.
+ * Bucket {@code i} holds prices in {@code [boundaries[i - 1], boundaries[i])}. Not thread-safe.
+ */
+class ProductStatsAggregate {
+
+    private final double[] boundaries;
+    private final long[] bucketCounts;
+    private final Map<ProductStatus, Long> countByStatus = new EnumMap<>(ProductStatus.class);
+    private final Map<ProductStatus, Long> quantityByStatus = new EnumMap<>(ProductStatus.class);
+    private long totalProducts;
+    private long totalQuantity;
+    private BigDecimal totalInventoryValue = BigDecimal.ZERO;
+
+    ProductStatsAggregate(double[] boundaries) {
+        this.boundaries = boundaries;
+        this.bucketCounts = new long[boundaries.length + 1];
+    }
+
+    static void validateBoundaries(double[] boundaries) {
+        for (int i = 0; i < boundaries.length; i++) {
+            if (!Double.isFinite(boundaries[i]) || (i > 0 && boundaries[i] <= boundaries[i - 1])) {
+                throw new IllegalStateException("Price buckets must be finite and strictly increasing: "
+                        + Arrays.toString(boundaries));
+            }
+        }
+    }
+
+    /** Adds ({@code sign = 1}) or removes ({@code sign = -1}) one product. */
+    void add(ProductDTO product, int sign) {
+        long quantity = (long) sign * product.getQuantity();
+        countByStatus.merge(product.getStatus(), (long) sign, Long::sum);
+        quantityByStatus.merge(product.getStatus(), quantity, Long::sum);
+        bucketCounts[bucketIndex(product.getPrice())] += sign;
+        totalProducts += sign;
+        totalQuantity += quantity;
+        totalInventoryValue = totalInventoryValue.add(
+                BigDecimal.valueOf(product.getPrice())
+                        .setScale(ProductStatsGroup.PRICE_SCALE, RoundingMode.HALF_UP)
+                        .multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    void add(ProductStatsGroup group) {
+        countByStatus.merge(group.getStatus(), group.getProductCount(), Long::sum);
+        quantityByStatus.merge(group.getStatus(), group.getTotalQuantity(), Long::sum);
+        bucketCounts[group.getBucket()] += group.getProductCount();
+        totalProducts += group.getProductCount();
+        totalQuantity += group.getTotalQuantity();
+        totalInventoryValue = totalInventoryValue.add(group.getInventoryValue());
+    }
+
+    int bucketIndex(double price) {
+        int index = Arrays.binarySearch(boundaries, price);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    long getTotalProducts() {
+        return totalProducts;
+    }
+
+    ProductStatsDTO toDTO(LocalDateTime asOf) {
+        Map<ProductStatus, Long> counts = new EnumMap<>(ProductStatus.class);
+        Map<ProductStatus, Long> quantities = new EnumMap<>(ProductStatus.class);
+        for (ProductStatus status : ProductStatus.values()) {
+            counts.put(status, countByStatus.getOrDefault(status, 0L));
+            quantities.put(status, quantityByStatus.getOrDefault(status, 0L));
+        }
+
+        List<PriceBucketDTO> histogram = new ArrayList<>(bucketCounts.length);
+        for (int i = 0; i < bucketCounts.length; i++) {
+            Double min = i == 0 ? 0.0 : boundaries[i - 1];
+            Double max = i < boundaries.length ? boundaries[i] : null;
+            histogram.add(new PriceBucketDTO(min, max, bucketCounts[i]));
+        }
+
+        return new ProductStatsDTO(totalProducts, totalQuantity, totalInventoryValue,
+                                   counts, quantities, histogram, asOf);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.ProductStatsDTO;
+import com.example.api.event.ProductChangedEvent;
+import com.example.api.repository.ProductRepository;
+import com.example.api.repository.ProductStatsGroup;
+import com.example.api.service.ProductStatsService;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps catalog-wide aggregates in memory, applying a delta for every committed product change,
+ * so unfiltered stats are served without touching the database. A periodic SQL GROUP BY
+ * reconciliation corrects any drift. Filtered stats are computed by the same GROUP BY query.
+ */
+@Service
+public class ProductStatsServiceImpl implements ProductStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductStatsServiceImpl.class);
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+    // Scheduled runs in a row that may be deferred before a snapshot is installed regardless
+    private static final int MAX_DEFERRED_RUNS = 3;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${products.stats.price-buckets:10,50,100,500,1000}")
+    private double[] priceBoundaries;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private ProductStatsAggregate aggregate;
+    private LocalDateTime reconciledAt;
+    // Changes published inside a transaction whose outcome has not been applied yet
+    private long pendingChanges;
+    private long appliedChanges;
+    private int deferredRuns;
+
+    @PostConstruct
+    public void validateConfiguration() {
+        ProductStatsAggregate.validateBoundaries(priceBoundaries);
+    }
+
+    @Override
+    public ProductStatsDTO getStats(String name, Double minPrice, Double maxPrice) {
+        boolean filtered = (name != null && !name.trim().isEmpty()) || minPrice != null || maxPrice != null;
+        if (!filtered) {
+            synchronized (lock) {
+                if (aggregate != null) {
+                    return aggregate.toDTO(reconciledAt);
+                }
+            }
+            // reconcile() always installs a snapshot when there is none yet
+            reconcile();
+            synchronized (lock) {
+                return aggregate.toDTO(reconciledAt);
+            }
+        }
+
+        String namePattern = name != null && !name.trim().isEmpty() ? "%" + name.toLowerCase() + "%" : null;
+        return aggregateFromDatabase(namePattern, minPrice, maxPrice).toDTO(LocalDateTime.now());
+    }
+
+    /**
+     * Replaces the in-memory aggregate with a fresh GROUP BY result. The result is only trusted when
+     * no change was pending when the query started and none was applied or started while it ran;
+     * otherwise a change committed before the query could have its delta applied again afterwards.
+     * Without any aggregate yet, or after {@value #MAX_DEFERRED_RUNS} runs deferred in a row by
+     * sustained writes, the last result is installed anyway: it is at most a few in-flight changes
+     * off, while the deferred aggregate may have drifted for much longer.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${products.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${products.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        for (int attempt = 1; ; attempt++) {
+            boolean quietBefore;
+            long appliedBefore;
+            synchronized (lock) {
+                quietBefore = pendingChanges == 0;
+                appliedBefore = appliedChanges;
+            }
+
+            ProductStatsAggregate fresh = aggregateFromDatabase(null, null, null);
+
+            synchronized (lock) {
+                boolean consistent = quietBefore && pendingChanges == 0 && appliedChanges == appliedBefore;
+                if (!consistent && aggregate != null && attempt < MAX_RECONCILE_ATTEMPTS) {
+                    continue;
+                }
+                if (!consistent && aggregate != null && deferredRuns < MAX_DEFERRED_RUNS) {
+                    deferredRuns++;
+                    logger.warn("Réconciliation des statistiques reportée, écritures concurrentes en cours - Reports consécutifs: {}",
+                               deferredRuns);
+                    return;
+                }
+                if (!consistent && aggregate == null) {
+                    logger.info("Statistiques initialisées pendant des écritures, correction à la prochaine réconciliation");
+                } else if (!consistent) {
+                    logger.warn("Statistiques réconciliées pendant des écritures après {} reports, correction à la prochaine réconciliation",
+                               deferredRuns);
+                } else if (aggregate != null && aggregate.getTotalProducts() != fresh.getTotalProducts()) {
+                    logger.warn("Statistiques produits corrigées - En mémoire: {}, Base: {}",
+                               aggregate.getTotalProducts(), fresh.getTotalProducts());
+                }
+                aggregate = fresh;
+                reconciledAt = LocalDateTime.now();
+                deferredRuns = 0;
+                return;
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /** Runs synchronously inside the publishing transaction, before it commits. */
+    @EventListener
+    public void onProductChanging(ProductChangedEvent event) {
+        synchronized (lock) {
+            pendingChanges++;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (lock) {
+            pendingChanges--;
+            appliedChanges++;
+            if (aggregate == null) {
+                return;
+            }
+            if (event.getBefore() != null) {
+                aggregate.add(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                aggregate.add(event.getAfter(), 1);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onProductChangeRolledBack(ProductChangedEvent event) {
+        synchronized (lock) {
+            pendingChanges--;
+        }
+    }
+
+    private ProductStatsAggregate aggregateFromDatabase(String namePattern, Double minPrice, Double maxPrice) {
+        ProductStatsAggregate result = new ProductStatsAggregate(priceBoundaries);
+        for (ProductStatsGroup group : productRepository.aggregateStats(namePattern, minPrice, maxPrice, priceBoundaries)) {
+            result.add(group);
+        }
+        return result;
+    }
+}
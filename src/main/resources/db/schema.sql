@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS products (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255),
+    price DOUBLE PRECISION NOT NULL,
+    quantity INTEGER NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
@@ -0,0 +1,105 @@
+package com.example.api.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void rejectsOnceTheLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+
+        limiter.onSuccess(FAST);
+
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limitGrowsWhileLatencyStaysFlatUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+
+        for (int round = 0; round < 5; round++) {
+            saturateAndComplete(limiter, FAST);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100);
+        // Establish the baseline latency at low concurrency, which leaves the limit alone
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(50);
+
+        saturateAndComplete(limiter, SLOW);
+
+        assertThat(limiter.getLimit()).isLessThan(50);
+    }
+
+    @Test
+    void lowUtilizationLeavesTheLimitUnchanged() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void failuresBackOffMultiplicativelyDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100);
+
+        limiter.tryAcquire();
+        limiter.onFailure();
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.onFailure();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void limitNeverExceedsTheMaximum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 12);
+
+        for (int round = 0; round < 20; round++) {
+            saturateAndComplete(limiter, FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(12);
+    }
+
+    private static void saturateAndComplete(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+}
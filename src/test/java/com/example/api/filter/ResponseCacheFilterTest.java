@@ -0,0 +1,149 @@
+package com.example.api.filter;
+
+import com.example.api.filter.ResponseCacheFilter.CachedResponse;
+import com.example.api.service.ProductChangeService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResponseCacheFilterTest {
+
+    private static final String JSON = "application/json";
+
+    private final ProductChangeService productChangeService = mock(ProductChangeService.class);
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(
+            Caffeine.newBuilder().<String, CachedResponse>build(), productChangeService);
+    private final AtomicInteger chainCalls = new AtomicInteger();
+
+    @Test
+    void acceptsGzipUnlessRefusedOrAbsent() {
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("deflate, GZIP")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=0.5")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip; q=0.0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("deflate, br")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void parameterOrderDoesNotChangeTheKey() throws Exception {
+        FilterChain chain = respondWith(200, JSON, "[]");
+
+        MockHttpServletRequest first = search();
+        first.addParameter("name", "phone");
+        first.addParameter("maxPrice", "100");
+        MockHttpServletRequest second = search();
+        second.addParameter("maxPrice", "100");
+        second.addParameter("name", "phone");
+
+        filter.doFilter(first, new MockHttpServletResponse(), chain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, chain);
+
+        assertThat(chainCalls).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    void newVersionIsAMiss() throws Exception {
+        FilterChain chain = respondWith(200, JSON, "[]");
+
+        filter.doFilter(search(), new MockHttpServletResponse(), chain);
+        when(productChangeService.getLatestOffset()).thenReturn(1L);
+        filter.doFilter(search(), new MockHttpServletResponse(), chain);
+
+        assertThat(chainCalls).hasValue(2);
+    }
+
+    @Test
+    void nonOkResponsesPassThroughUncached() throws Exception {
+        FilterChain chain = respondWith(404, JSON, "{\"error\":\"not found\"}");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(search(), response, chain);
+        filter.doFilter(search(), new MockHttpServletResponse(), chain);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentAsString()).isEqualTo("{\"error\":\"not found\"}");
+        assertThat(chainCalls).hasValue(2);
+    }
+
+    @Test
+    void responsesWithoutContentTypePassThroughUncached() throws Exception {
+        FilterChain chain = respondWith(200, null, "[]");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(search(), response, chain);
+        filter.doFilter(search(), new MockHttpServletResponse(), chain);
+
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(chainCalls).hasValue(2);
+    }
+
+    @Test
+    void compressibleBodyIsServedGzipped() throws Exception {
+        String body = "[" + "{\"name\":\"Product\",\"price\":10.0},".repeat(50) + "{}]";
+        FilterChain chain = respondWith(200, JSON, body);
+
+        MockHttpServletRequest request = search();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+    }
+
+    @Test
+    void bodyThatGzipCannotShrinkIsServedPlain() throws Exception {
+        FilterChain chain = respondWith(200, JSON, "[]");
+
+        MockHttpServletRequest request = search();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    private static MockHttpServletRequest search() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/api/v1/products/search");
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private FilterChain respondWith(int status, String contentType, String body) {
+        return (request, response) -> {
+            chainCalls.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            if (contentType != null) {
+                http.setContentType(contentType);
+            }
+            http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.ProductChangeDTO;
+import com.example.api.dto.ProductDTO;
+import com.example.api.event.ProductChangeType;
+import com.example.api.event.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductChangeLogTest {
+
+    @Test
+    void emptyLogOnlyResumesFromZero() {
+        ProductChangeLog log = new ProductChangeLog(3, "epoch");
+
+        assertThat(log.getLatestOffset()).isZero();
+        assertThat(log.firstRetainedOffset()).isEqualTo(1);
+        assertThat(log.isTruncated(0)).isFalse();
+        assertThat(log.isTruncated(1)).isTrue();
+        assertThat(log.changesAfter(0, 10)).isEmpty();
+    }
+
+    @Test
+    void offsetsStartAtOneAndIncrease() {
+        ProductChangeLog log = new ProductChangeLog(3, "epoch");
+
+        ProductChangeDTO first = log.append(ProductChangedEvent.created(product(10L)));
+        ProductChangeDTO second = log.append(ProductChangedEvent.deleted(product(10L)));
+
+        assertThat(first.getOffset()).isEqualTo(1);
+        assertThat(second.getOffset()).isEqualTo(2);
+        assertThat(second.getType()).isEqualTo(ProductChangeType.DELETED);
+        assertThat(second.getProductId()).isEqualTo(10L);
+        assertThat(second.getProduct()).isNull();
+        assertThat(log.changesAfter(0, 10)).extracting(ProductChangeDTO::getOffset).containsExactly(1L, 2L);
+        assertThat(log.changesAfter(1, 10)).extracting(ProductChangeDTO::getOffset).containsExactly(2L);
+        assertThat(log.changesAfter(0, 1)).extracting(ProductChangeDTO::getOffset).containsExactly(1L);
+    }
+
+    @Test
+    void wrapAroundKeepsOnlyTheLastCapacityChanges() {
+        ProductChangeLog log = appended(3, 5);
+
+        assertThat(log.getLatestOffset()).isEqualTo(5);
+        assertThat(log.firstRetainedOffset()).isEqualTo(3);
+        assertThat(log.isTruncated(1)).isTrue();
+        assertThat(log.isTruncated(2)).isFalse();
+        assertThat(log.changesAfter(2, 10)).extracting(ProductChangeDTO::getOffset).containsExactly(3L, 4L, 5L);
+        assertThat(log.changesAfter(3, 1)).extracting(ProductChangeDTO::getOffset).containsExactly(4L);
+        assertThat(log.changesAfter(0, 10)).extracting(ProductChangeDTO::getOffset).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void wrapAroundAcrossSeveralLaps() {
+        ProductChangeLog log = appended(4, 11);
+
+        assertThat(log.firstRetainedOffset()).isEqualTo(8);
+        assertThat(log.changesAfter(7, Integer.MAX_VALUE)).extracting(ProductChangeDTO::getOffset)
+                .containsExactly(8L, 9L, 10L, 11L);
+    }
+
+    @Test
+    void offsetAheadOfTheLogIsTruncated() {
+        ProductChangeLog log = appended(3, 2);
+
+        assertThat(log.isTruncated(2)).isFalse();
+        assertThat(log.isTruncated(3)).isTrue();
+        assertThat(log.isTruncated(1000)).isTrue();
+        assertThat(log.changesAfter(2, 10)).isEmpty();
+        assertThat(log.changesAfter(1000, 10)).isEmpty();
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThatThrownBy(() -> new ProductChangeLog(0, "epoch")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ProductChangeLog appended(int capacity, int count) {
+        ProductChangeLog log = new ProductChangeLog(capacity, "epoch");
+        for (long id = 1; id <= count; id++) {
+            log.append(ProductChangedEvent.created(product(id)));
+        }
+        return log;
+    }
+
+    private static ProductDTO product(Long id) {
+        ProductDTO product = new ProductDTO();
+        product.setId(id);
+        product.setName("Product " + id);
+        return product;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.ProductDTO;
+import com.example.api.event.ProductChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductChangeServiceImplTest {
+
+    private final ProductChangeServiceImpl service = new ProductChangeServiceImpl();
+    private final Cache products = mock(Cache.class);
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("products")).thenReturn(products);
+        ReflectionTestUtils.setField(service, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(service, "logCapacity", 10);
+        ReflectionTestUtils.setField(service, "maxPendingPerSubscriber", 10);
+        service.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void productsCacheIsClearedBeforeTheVersionMoves() {
+        List<Long> offsetsSeenByClear = new ArrayList<>();
+        doAnswer(invocation -> offsetsSeenByClear.add(service.getLatestOffset())).when(products).clear();
+
+        service.onProductChanged(ProductChangedEvent.created(product(1L)));
+        service.onProductChanged(ProductChangedEvent.deleted(product(1L)));
+
+        assertThat(offsetsSeenByClear).containsExactly(0L, 1L);
+        assertThat(service.getLatestOffset()).isEqualTo(2);
+    }
+
+    private static ProductDTO product(Long id) {
+        ProductDTO product = new ProductDTO();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(10.0);
+        product.setQuantity(1);
+        return product;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.api.service.impl;
+
+import com.example.api.dto.PriceBucketDTO;
+import com.example.api.dto.ProductDTO;
+import com.example.api.dto.ProductStatsDTO;
+import com.example.api.entity.ProductStatus;
+import com.example.api.repository.ProductStatsGroup;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductStatsAggregateTest {
+
+    private static final double[] BOUNDARIES = {10, 50, 100};
+
+    @Test
+    void bucketIndexTreatsBoundariesAsInclusiveLowerBounds() {
+        ProductStatsAggregate aggregate = new ProductStatsAggregate(BOUNDARIES);
+
+        assertThat(aggregate.bucketIndex(0.5)).isEqualTo(0);
+        assertThat(aggregate.bucketIndex(10)).isEqualTo(1);
+        assertThat(aggregate.bucketIndex(49.99)).isEqualTo(1);
+        assertThat(aggregate.bucketIndex(50)).isEqualTo(2);
+        assertThat(aggregate.bucketIndex(100)).isEqualTo(3);
+        assertThat(aggregate.bucketIndex(5000)).isEqualTo(3);
+    }
+
+    @Test
+    void addAndRemoveDeltasUpdateEveryFigure() {
+        ProductStatsAggregate aggregate = new ProductStatsAggregate(BOUNDARIES);
+        ProductDTO cheap = product(5.0, 4, ProductStatus.ACTIVE);
+        ProductDTO expensive = product(75.5, 2, ProductStatus.OUT_OF_STOCK);
+
+        aggregate.add(cheap, 1);
+        aggregate.add(expensive, 1);
+        ProductStatsDTO stats = aggregate.toDTO(LocalDateTime.now());
+
+        assertThat(stats.getTotalProducts()).isEqualTo(2);
+        assertThat(stats.getTotalQuantity()).isEqualTo(6);
+        assertThat(stats.getTotalInventoryValue()).isEqualByComparingTo("171.0");
+        assertThat(stats.getCountByStatus())
+                .containsEntry(ProductStatus.ACTIVE, 1L)
+                .containsEntry(ProductStatus.OUT_OF_STOCK, 1L)
+                .containsEntry(ProductStatus.INACTIVE, 0L);
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getCount).containsExactly(1L, 0L, 1L, 0L);
+
+        aggregate.add(expensive, -1);
+        stats = aggregate.toDTO(LocalDateTime.now());
+
+        assertThat(stats.getTotalProducts()).isEqualTo(1);
+        assertThat(stats.getTotalQuantity()).isEqualTo(4);
+        assertThat(stats.getTotalInventoryValue()).isEqualByComparingTo("20.0");
+        assertThat(stats.getQuantityByStatus()).containsEntry(ProductStatus.OUT_OF_STOCK, 0L);
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getCount).containsExactly(1L, 0L, 0L, 0L);
+    }
+
+    @Test
+    void updateAsRemoveThenAddMovesProductBetweenBuckets() {
+        ProductStatsAggregate aggregate = new ProductStatsAggregate(BOUNDARIES);
+        ProductDTO before = product(20.0, 3, ProductStatus.ACTIVE);
+        ProductDTO after = product(200.0, 3, ProductStatus.INACTIVE);
+
+        aggregate.add(before, 1);
+        aggregate.add(before, -1);
+        aggregate.add(after, 1);
+        ProductStatsDTO stats = aggregate.toDTO(LocalDateTime.now());
+
+        assertThat(stats.getTotalProducts()).isEqualTo(1);
+        assertThat(stats.getCountByStatus())
+                .containsEntry(ProductStatus.ACTIVE, 0L)
+                .containsEntry(ProductStatus.INACTIVE, 1L);
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getCount).containsExactly(0L, 0L, 0L, 1L);
+        assertThat(stats.getTotalInventoryValue()).isEqualByComparingTo("600.0");
+    }
+
+    @Test
+    void deltasRoundPricesLikeTheDatabaseSum() {
+        ProductStatsAggregate aggregate = new ProductStatsAggregate(BOUNDARIES);
+
+        aggregate.add(product(9.999, 3, ProductStatus.ACTIVE), 1);
+
+        assertThat(aggregate.toDTO(LocalDateTime.now()).getTotalInventoryValue()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    void groupsFromDatabaseAreSummed() {
+        ProductStatsAggregate aggregate = new ProductStatsAggregate(BOUNDARIES);
+
+        aggregate.add(new ProductStatsGroup(ProductStatus.ACTIVE, 0, 3L, 30L, new BigDecimal("150.00")));
+        aggregate.add(new ProductStatsGroup(ProductStatus.ACTIVE, 3, 2L, 5L, new BigDecimal("1000.00")));
+        aggregate.add(new ProductStatsGroup(ProductStatus.INACTIVE, 3, 1L, 1L, new BigDecimal("300.00")));
+        ProductStatsDTO stats = aggregate.toDTO(LocalDateTime.now());
+
+        assertThat(stats.getTotalProducts()).isEqualTo(6);
+        assertThat(stats.getTotalQuantity()).isEqualTo(36);
+        assertThat(stats.getTotalInventoryValue()).isEqualByComparingTo(BigDecimal.valueOf(1450));
+        assertThat(stats.getCountByStatus()).containsEntry(ProductStatus.ACTIVE, 5L);
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getCount).containsExactly(3L, 0L, 0L, 3L);
+    }
+
+    @Test
+    void histogramBucketsCarryTheirBounds() {
+        ProductStatsDTO stats = new ProductStatsAggregate(BOUNDARIES).toDTO(LocalDateTime.now());
+
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getMinPrice).containsExactly(0.0, 10.0, 50.0, 100.0);
+        assertThat(stats.getPriceHistogram()).extracting(PriceBucketDTO::getMaxPrice).containsExactly(10.0, 50.0, 100.0, null);
+    }
+
+    @Test
+    void boundariesMustBeStrictlyIncreasing() {
+        ProductStatsAggregate.validateBoundaries(BOUNDARIES);
+        ProductStatsAggregate.validateBoundaries(new double[0]);
+
+        assertThatThrownBy(() -> ProductStatsAggregate.validateBoundaries(new double[] {10, 10, 50}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ProductStatsAggregate.validateBoundaries(new double[] {50, 10}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ProductStatsAggregate.validateBoundaries(new double[] {10, Double.NaN}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ProductDTO product(double price, int quantity, ProductStatus status) {
+        ProductDTO product = new ProductDTO();
+        product.setName("Product " + price);
+        product.setPrice(price);
+        product.setQuantity(quantity);
+        product.setStatus(status);
+        return product;
+    }
+}